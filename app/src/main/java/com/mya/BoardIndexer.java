@@ -0,0 +1,119 @@
+package com.mya;
+
+import android.content.Context;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 프로세스 전체에서 하나만 사용하는 게시글 검색 색인과 색인 작업 스레드
+ * 액티비티가 재생성되어도 같은 색인 파일을 여러 인스턴스가 동시에 쓰지 않도록 함
+ */
+public final class BoardIndexer {
+
+    // 색인 파일 디렉터리 (앱 내부 저장소)
+    private static final String INDEX_DIR = "board_index";
+
+    private static BoardIndexer instance;
+
+    private final File dir;
+
+    // 색인 로드 및 게시글 추가를 순서대로 처리하는 단일 스레드
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 로드 실패 시 빈 색인으로 교체되므로 volatile
+    private volatile BoardSearchIndex index;
+
+    /**
+     * 프로세스 전역 인스턴스 반환 (처음 호출 시 백그라운드에서 색인 로드 시작)
+     * @param context 컨텍스트 (애플리케이션 컨텍스트의 내부 저장소 사용)
+     */
+    public static synchronized BoardIndexer getInstance(Context context) {
+        if (instance == null) {
+            instance = new BoardIndexer(new File(context.getApplicationContext().getFilesDir(), INDEX_DIR));
+        }
+        return instance;
+    }
+
+    /**
+     * 생성자: 지정한 디렉터리의 색인을 백그라운드에서 로드 (테스트에서는 임시 디렉터리 사용)
+     * @param dir 색인 파일 디렉터리
+     */
+    BoardIndexer(File dir) {
+        this.dir = dir;
+        this.index = new BoardSearchIndex(dir);
+        executor.execute(this::open);
+    }
+
+    /**
+     * 검색에 사용할 색인 반환
+     */
+    public BoardSearchIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * 게시판 페이지를 색인 작업 스레드에 전달
+     * @param html       게시판 페이지 HTML
+     * @param detailPage 상세 페이지 여부 (상세 페이지의 본문은 목록의 발췌문으로 덮어쓰지 않음)
+     */
+    public void submitPage(String html, boolean detailPage) {
+        executor.execute(() -> indexPage(html, detailPage));
+    }
+
+    /**
+     * 앞서 전달된 색인 작업이 모두 끝날 때까지 대기 (테스트용)
+     */
+    void awaitIdle() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(latch::countDown);
+        latch.await();
+    }
+
+    /**
+     * 색인 로드. 파일이 손상되어 실패하면 색인 파일을 지우고 빈 색인으로 다시 시작
+     */
+    private void open() {
+        try {
+            index.open();
+        } catch (IOException | RuntimeException e) {
+            EventLog.e(EventLog.EV_BOARD_INDEX_FAILED, e);
+
+            BoardSearchIndex.delete(dir);
+            BoardSearchIndex fresh = new BoardSearchIndex(dir);
+            try {
+                fresh.open();
+            } catch (IOException | RuntimeException ex) {
+                // 빈 색인도 열 수 없으면 검색 결과 없이 동작 (게시글 추가는 실패로 기록됨)
+                EventLog.e(EventLog.EV_BOARD_INDEX_FAILED, ex);
+            }
+            index = fresh;
+        }
+    }
+
+    /**
+     * 페이지에서 게시글을 추출하여 색인에 추가
+     */
+    private void indexPage(String html, boolean detailPage) {
+        try {
+            List<BoardSearchIndex.Post> posts = BoardPageParser.parse(html, detailPage);
+            int changed = 0;
+            for (BoardSearchIndex.Post post : posts) {
+                if (index.add(post)) changed++;
+            }
+            if (EventLog.DEBUG) {
+                EventLog.d(EventLog.EV_BOARD_CAPTURED, posts.size(), changed);
+            }
+        } catch (Exception e) {
+            EventLog.e(EventLog.EV_BOARD_INDEX_FAILED, e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.mya;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시판 페이지 HTML에서 게시글 제목과 본문을 추출하는 클래스
+ * 게시글 마크업 (속성 순서와 따옴표 종류는 무관, class에 다른 클래스가 함께 있어도 됨)
+ * - 목록(/board/list.do): li.board-post[data-post-id] 안의 .post-title, .post-content
+ * - 상세(/board/view.do): article.board-post[data-post-id] 안의 .post-title, .post-content
+ * .post-title, .post-content는 태그 종류와 무관하나 같은 태그가 안에 중첩되면 안쪽 닫는 태그까지만 추출됨
+ */
+public final class BoardPageParser {
+
+    // 게시글 영역 후보 (1: 태그명, 2: 속성, 3: 내용). board-post 클래스와 글 번호는 속성에서 따로 확인
+    private static final Pattern CONTAINER = Pattern.compile(
+            "<(li|article)\\b([^>]*)>(.*?)</\\1\\s*>", Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+    private static final Pattern POST_CLASS = classAttribute("board-post");
+    private static final Pattern POST_ID = Pattern.compile(
+            "\\sdata-post-id\\s*=\\s*[\"']?(\\d+)", Pattern.CASE_INSENSITIVE);
+    // 게시글 제목
+    private static final Pattern TITLE = classElement("post-title");
+    // 게시글 본문
+    private static final Pattern CONTENT = classElement("post-content");
+    // 태그 제거용
+    private static final Pattern TAG = Pattern.compile("<[^>]+>");
+
+    private BoardPageParser() {
+    }
+
+    /**
+     * 목록 페이지 HTML에서 게시글 목록 추출 (본문은 발췌문으로 취급)
+     * @param html 게시판 목록 페이지 HTML
+     * @return 추출된 게시글 (없으면 빈 목록)
+     */
+    public static List<BoardSearchIndex.Post> parse(String html) {
+        return parse(html, false);
+    }
+
+    /**
+     * HTML에서 게시글 목록 추출
+     * @param html     게시판 목록/상세 페이지 HTML
+     * @param fullText 상세 페이지 여부 (true면 본문을 전문으로 취급)
+     * @return 추출된 게시글 (없으면 빈 목록)
+     */
+    public static List<BoardSearchIndex.Post> parse(String html, boolean fullText) {
+        List<BoardSearchIndex.Post> posts = new ArrayList<>();
+        Matcher container = CONTAINER.matcher(html);
+        int from = 0;
+        while (container.find(from)) {
+            // 게시글이 아닌 영역(목록을 감싸는 article 등)은 안쪽에 게시글이 있을 수 있으므로 내용의 시작부터 다시 찾음
+            from = container.start(3);
+
+            String attributes = container.group(2);
+            if (!POST_CLASS.matcher(attributes).find()) continue;
+            Matcher postId = POST_ID.matcher(attributes);
+            if (!postId.find()) continue;
+
+            String inner = container.group(3);
+            String title = extract(TITLE, inner);
+            if (title.isEmpty()) continue;
+            posts.add(new BoardSearchIndex.Post(Long.parseLong(postId.group(1)), title,
+                    extract(CONTENT, inner), fullText));
+            from = container.end();
+        }
+        return posts;
+    }
+
+    /**
+     * 지정한 클래스를 포함하는 class 속성 패턴 (다른 클래스와 함께 있어도 일치)
+     */
+    private static Pattern classAttribute(String className) {
+        return Pattern.compile(classRegex(className), Pattern.CASE_INSENSITIVE);
+    }
+
+    /**
+     * 지정한 클래스를 가진 요소의 내용 패턴 (1: 태그명, 2: 내용)
+     */
+    private static Pattern classElement(String className) {
+        return Pattern.compile("<(\\w+)\\b[^>]*" + classRegex(className) + "[^>]*>(.*?)</\\1\\s*>",
+                Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+    }
+
+    private static String classRegex(String className) {
+        String token = "(?<![\\w-])" + Pattern.quote(className) + "(?![\\w-])";
+        return "\\sclass\\s*=\\s*(?:\"[^\"]*" + token + "[^\"]*\"|'[^']*" + token + "[^']*')";
+    }
+
+    /**
+     * 패턴에 해당하는 부분의 텍스트만 추출 (태그 제거, 기본 HTML 엔티티 변환)
+     */
+    private static String extract(Pattern pattern, String html) {
+        Matcher matcher = pattern.matcher(html);
+        if (!matcher.find()) return "";
+
+        String text = TAG.matcher(matcher.group(2)).replaceAll(" ");
+        return text.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&")
+                .trim();
+    }
+}
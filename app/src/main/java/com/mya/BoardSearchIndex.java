@@ -0,0 +1,667 @@
+package com.mya;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오프라인 게시글 검색을 위한 디스크 기반 역색인
+ * - 제목/본문을 글자 2-gram(한글 음절 단위)으로 토큰화하여 색인. 한 글자 검색을 위해 단어 첫 글자는 1-gram도 색인
+ * - 추가/수정된 게시글은 로그 파일(posts.log)에 덧붙여 즉시 저장하고, 일정 건수가 쌓이면 스냅샷(index.dat)으로 압축
+ * - 스냅샷의 포스팅 목록은 문서 번호 차이를 가변 길이 정수로 저장
+ * - 상세 페이지에서 색인한 전문은 제목이 같은 동안 목록 페이지의 발췌문으로 덮어쓰지 않음
+ * - 로드(open)와 압축 시 파일 I/O는 락 밖에서 수행하므로 로드/압축 중에도 검색이 막히지 않음 (로드 전에는 빈 결과)
+ * 모든 public 메서드는 스레드 안전하여 색인 스레드와 JS 브릿지 스레드에서 함께 사용 가능
+ */
+public class BoardSearchIndex {
+
+    private static final int MAGIC = 0x4D594958;   // "MYIX"
+    private static final int VERSION = 2;   // 2: 문서별 전문 여부 추가
+
+    // 로그에 이 건수 이상 쌓이면 스냅샷으로 압축
+    static final int COMPACT_THRESHOLD = 2000;
+
+    private static final String INDEX_FILE = "index.dat";
+    private static final String LOG_FILE = "posts.log";
+    private static final String OLD_LOG_FILE = "posts.log.old";   // 압축 중인 로그
+
+    /**
+     * 색인할 게시글
+     */
+    public static final class Post {
+        public final long postId;
+        public final String title;
+        public final String body;
+        public final boolean fullText;  // 본문이 상세 페이지의 전문인지 여부 (false: 목록 페이지의 발췌문)
+
+        /**
+         * 목록 페이지에서 추출한 게시글 (본문은 발췌문)
+         */
+        public Post(long postId, String title, String body) {
+            this(postId, title, body, false);
+        }
+
+        public Post(long postId, String title, String body, boolean fullText) {
+            this.postId = postId;
+            this.title = title;
+            this.body = body;
+            this.fullText = fullText;
+        }
+    }
+
+    /**
+     * 검색 결과 (게시글 번호와 제목)
+     */
+    public static final class Result {
+        public final long postId;
+        public final String title;
+
+        Result(long postId, String title) {
+            this.postId = postId;
+            this.title = title;
+        }
+    }
+
+    /**
+     * 압축 시 락 안에서 복사해 둔 스냅샷 내용 (파일 쓰기는 락 밖에서 수행)
+     */
+    private static final class Snapshot {
+        long[] postIds;
+        int[] hashes;
+        boolean[] fullTexts;
+        String[] titles;
+        int[] terms;
+        int[][] postings;
+    }
+
+    /**
+     * 손상된 로그/스냅샷 레코드
+     */
+    private static final class CorruptRecordException extends IOException {
+        CorruptRecordException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 정렬된 문서 번호 목록 (박싱 없이 int 배열로 관리)
+     */
+    static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * 메모리 색인 (문서 정보와 포스팅 목록)
+     * open()에서는 락 밖에서 새 인스턴스에 읽어 들인 후 교체하고, 이후에는 BoardSearchIndex의 락 안에서만 사용
+     */
+    private static final class Memory {
+        // 문서 번호별 게시글 정보 (문서 번호는 0부터 증가)
+        long[] docPostIds = new long[256];
+        int[] docHashes = new int[256];
+        boolean[] docFullTexts = new boolean[256];
+        String[] docTitles = new String[256];
+        int docCount;
+
+        // 게시글 번호 → 최신 문서 번호 (수정된 게시글의 이전 문서는 검색에서 제외)
+        final Map<Long, Integer> latestDocs = new HashMap<>();
+
+        // 토큰 → 문서 번호 목록
+        final Map<Integer, IntList> postings = new HashMap<>();
+
+        // 토큰화 시 재사용하는 버퍼
+        final IntList termBuffer = new IntList();
+
+        // 로그 재생 중 손상된 레코드를 만나 이후 내용을 버린 경우 true
+        boolean truncated;
+
+        boolean isLatest(int doc) {
+            Integer latest = latestDocs.get(docPostIds[doc]);
+            return latest != null && latest == doc;
+        }
+
+        /**
+         * 게시글을 메모리 색인에 추가
+         * 내용이 같거나, 전문이 색인된 게시글에 제목이 같은 발췌문이 들어오면 무시
+         * (제목이 바뀐 경우는 수정된 게시글이므로 발췌문으로 교체하고 다음 상세 페이지 방문 시 전문으로 갱신)
+         */
+        boolean add(Post post) {
+            int hash = hash(post);
+            String title = post.title != null ? post.title : "";
+            Integer previous = latestDocs.get(post.postId);
+            if (previous != null) {
+                if (docHashes[previous] == hash) {
+                    return false;
+                }
+                if (docFullTexts[previous] && !post.fullText && docTitles[previous].equals(title)) {
+                    return false;
+                }
+            }
+
+            int doc = newDoc(post.postId, hash, post.fullText, title);
+            termBuffer.size = 0;
+            if (post.title != null) tokenize(post.title, termBuffer, false);
+            if (post.body != null) tokenize(post.body, termBuffer, false);
+            for (int i = 0; i < termBuffer.size; i++) {
+                addPosting(termBuffer.values[i], doc);
+            }
+            latestDocs.put(post.postId, doc);
+            return true;
+        }
+
+        int newDoc(long postId, int hash, boolean fullText, String title) {
+            if (docCount == docPostIds.length) {
+                int capacity = docCount * 2;
+                docPostIds = Arrays.copyOf(docPostIds, capacity);
+                docHashes = Arrays.copyOf(docHashes, capacity);
+                docFullTexts = Arrays.copyOf(docFullTexts, capacity);
+                docTitles = Arrays.copyOf(docTitles, capacity);
+            }
+            docPostIds[docCount] = postId;
+            docHashes[docCount] = hash;
+            docFullTexts[docCount] = fullText;
+            docTitles[docCount] = title;
+            return docCount++;
+        }
+
+        void addPosting(int term, int doc) {
+            IntList list = postings.get(term);
+            if (list == null) {
+                list = new IntList();
+                postings.put(term, list);
+            } else if (list.values[list.size - 1] == doc) {
+                return;  // 같은 문서에 여러 번 나온 토큰
+            }
+            list.add(doc);
+        }
+
+        /**
+         * 살아 있는 문서만 남기도록 문서 번호를 다시 매기고, 스냅샷에 쓸 내용을 복사 (락 안에서 호출)
+         */
+        Snapshot prepareSnapshot() {
+            int[] remap = new int[docCount];
+            int live = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (isLatest(doc)) {
+                    remap[doc] = live;
+                    docPostIds[live] = docPostIds[doc];
+                    docHashes[live] = docHashes[doc];
+                    docFullTexts[live] = docFullTexts[doc];
+                    docTitles[live] = docTitles[doc];
+                    live++;
+                } else {
+                    remap[doc] = -1;
+                }
+            }
+            for (int doc = live; doc < docCount; doc++) {
+                docTitles[doc] = null;
+            }
+            docCount = live;
+            latestDocs.clear();
+            for (int doc = 0; doc < docCount; doc++) {
+                latestDocs.put(docPostIds[doc], doc);
+            }
+            for (IntList list : postings.values()) {
+                int size = 0;
+                for (int i = 0; i < list.size; i++) {
+                    int doc = remap[list.values[i]];
+                    if (doc >= 0) list.values[size++] = doc;
+                }
+                list.size = size;
+            }
+            postings.values().removeIf(list -> list.size == 0);
+
+            Snapshot snapshot = new Snapshot();
+            snapshot.postIds = Arrays.copyOf(docPostIds, docCount);
+            snapshot.hashes = Arrays.copyOf(docHashes, docCount);
+            snapshot.fullTexts = Arrays.copyOf(docFullTexts, docCount);
+            snapshot.titles = Arrays.copyOf(docTitles, docCount);
+            snapshot.terms = new int[postings.size()];
+            int i = 0;
+            for (Integer term : postings.keySet()) {
+                snapshot.terms[i++] = term;
+            }
+            Arrays.sort(snapshot.terms);
+            snapshot.postings = new int[snapshot.terms.length][];
+            for (i = 0; i < snapshot.terms.length; i++) {
+                IntList list = postings.get(snapshot.terms[i]);
+                snapshot.postings[i] = Arrays.copyOf(list.values, list.size);
+            }
+            return snapshot;
+        }
+    }
+
+    private final File indexFile;
+    private final File logFile;
+    private final File oldLogFile;
+
+    // 압축은 한 번에 하나만 수행
+    private final Object compactLock = new Object();
+
+    // 검색 대상 메모리 색인 (로드가 끝나기 전에는 빈 색인)
+    private Memory memory = new Memory();
+
+    private DataOutputStream logOut;
+    private int logRecords;     // 마지막 압축 이후 로그에 기록된 건수
+    private boolean opened;
+
+    /**
+     * 생성자: 파일 I/O 없이 경로만 지정. 실제 로드는 open()에서 수행
+     * @param dir 색인 파일을 저장할 디렉터리
+     */
+    public BoardSearchIndex(File dir) {
+        this.indexFile = new File(dir, INDEX_FILE);
+        this.logFile = new File(dir, LOG_FILE);
+        this.oldLogFile = new File(dir, OLD_LOG_FILE);
+    }
+
+    /**
+     * 디렉터리의 색인 파일을 모두 삭제 (손상된 색인을 버리고 새로 시작할 때 사용)
+     * @param dir 색인 파일 디렉터리
+     */
+    public static void delete(File dir) {
+        for (String name : new String[]{INDEX_FILE, INDEX_FILE + ".tmp", LOG_FILE, OLD_LOG_FILE}) {
+            File file = new File(dir, name);
+            if (file.exists() && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * 스냅샷을 읽고 로그를 재생하여 색인을 메모리에 올림
+     * 로그가 손상되었거나 이전 압축이 끝나지 않은 경우 즉시 압축하여 정리
+     * 파일 읽기/쓰기는 새 메모리 색인에 락 없이 수행하고 마지막에 교체하므로, 그동안 search()는 빈 결과를 반환
+     */
+    public void open() throws IOException {
+        synchronized (compactLock) {
+            synchronized (this) {
+                if (opened) return;
+            }
+
+            File dir = indexFile.getParentFile();
+            if (dir != null && !dir.exists() && !dir.mkdirs()) {
+                throw new IOException("cannot create " + dir);
+            }
+
+            Memory loaded = new Memory();
+            if (indexFile.exists()) {
+                readSnapshot(loaded);
+            }
+
+            boolean recover = false;
+            int records = 0;
+            if (oldLogFile.exists()) {
+                // 이전 압축 도중 중단됨 (이미 반영된 게시글은 해시 비교로 건너뜀)
+                records += replayLog(oldLogFile, loaded);
+                recover = true;
+            }
+            if (logFile.exists()) {
+                records += replayLog(logFile, loaded);
+            }
+
+            DataOutputStream out;
+            if (recover || loaded.truncated || records >= COMPACT_THRESHOLD) {
+                writeSnapshot(loaded.prepareSnapshot());
+                if (oldLogFile.exists() && !oldLogFile.delete()) {
+                    throw new IOException("cannot delete " + oldLogFile);
+                }
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile, false)));
+                records = 0;
+            } else {
+                out = openLog();
+            }
+
+            synchronized (this) {
+                memory = loaded;
+                logOut = out;
+                logRecords = records;
+                opened = true;
+            }
+        }
+    }
+
+    /**
+     * 게시글 추가. 같은 게시글이 같은 내용으로 이미 색인되어 있거나, 전문이 색인된 게시글의 발췌문이면 무시
+     * @return 새로 추가되거나 수정되어 색인한 경우 true
+     */
+    public boolean add(Post post) throws IOException {
+        boolean needsCompact;
+        synchronized (this) {
+            if (!opened) {
+                throw new IllegalStateException("index not opened");
+            }
+            if (!memory.add(post)) {
+                return false;
+            }
+
+            writePost(logOut, post);
+            logOut.flush();
+            needsCompact = ++logRecords >= COMPACT_THRESHOLD;
+        }
+        if (needsCompact) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * 모든 검색어 토큰을 포함하는 게시글을 최신 순으로 검색
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 검색 결과
+     */
+    public synchronized List<Result> search(String query, int limit) {
+        List<Result> results = new ArrayList<>();
+        if (query == null || limit <= 0) return results;
+
+        Memory memory = this.memory;
+        IntList termBuffer = memory.termBuffer;
+        termBuffer.size = 0;
+        tokenize(query, termBuffer, true);
+        if (termBuffer.size == 0) return results;
+
+        // 토큰별 포스팅 목록을 짧은 순으로 정렬 (교집합 비용 최소화)
+        IntList[] lists = new IntList[termBuffer.size];
+        for (int i = 0; i < termBuffer.size; i++) {
+            IntList list = memory.postings.get(termBuffer.values[i]);
+            if (list == null) return results;
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        // 가장 짧은 목록을 뒤(최신 문서)부터 순회하며 나머지 목록에 모두 있는지 이진 탐색
+        IntList shortest = lists[0];
+        for (int i = shortest.size - 1; i >= 0 && results.size() < limit; i--) {
+            int doc = shortest.values[i];
+            if (!memory.isLatest(doc)) continue;
+
+            boolean matched = true;
+            for (int j = 1; j < lists.length && matched; j++) {
+                matched = Arrays.binarySearch(lists[j].values, 0, lists[j].size, doc) >= 0;
+            }
+            if (matched) {
+                results.add(new Result(memory.docPostIds[doc], memory.docTitles[doc]));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 검색 가능한 게시글 수
+     */
+    public synchronized int size() {
+        return memory.latestDocs.size();
+    }
+
+    /**
+     * 로그를 닫음. 이후 다시 open() 해야 사용 가능
+     */
+    public synchronized void close() throws IOException {
+        if (logOut != null) {
+            logOut.close();
+            logOut = null;
+        }
+        opened = false;
+    }
+
+    /**
+     * 수정되어 사라진 문서를 제거하고 스냅샷으로 저장한 뒤 로그를 비움
+     * 락 안에서는 메모리 정리/복사와 로그 교체만 하고, 스냅샷 파일 쓰기는 락 밖에서 수행
+     * 스냅샷은 임시 파일에 쓴 후 교체하고, 압축 대상 로그(posts.log.old)는 스냅샷 교체 후 삭제하므로
+     * 도중에 중단되어도 다음 open()에서 복구됨
+     */
+    void compact() throws IOException {
+        synchronized (compactLock) {
+            Snapshot snapshot;
+            synchronized (this) {
+                if (!opened) return;
+                snapshot = memory.prepareSnapshot();
+
+                // 현재 로그를 압축 대상으로 넘기고 새 로그 시작
+                logOut.close();
+                try {
+                    if (oldLogFile.exists()) {
+                        // 이전 압축이 실패하여 남은 로그 뒤에 이어 붙임
+                        appendFile(logFile, oldLogFile);
+                        if (!logFile.delete()) {
+                            throw new IOException("cannot delete " + logFile);
+                        }
+                    } else if (logFile.exists() && !logFile.renameTo(oldLogFile)) {
+                        throw new IOException("cannot rename " + logFile);
+                    }
+                    logRecords = 0;
+                } finally {
+                    logOut = openLog();
+                }
+            }
+
+            writeSnapshot(snapshot);
+            if (!oldLogFile.delete()) {
+                throw new IOException("cannot delete " + oldLogFile);
+            }
+        }
+    }
+
+    /**
+     * 텍스트를 토큰으로 변환. 영문은 소문자로 바꾸고 글자/숫자가 아닌 문자는 단어 구분자로 취급
+     * 토큰은 두 글자를 (앞 글자 << 16 | 뒷 글자) 형태의 int 로 표현하며, 단어 첫 글자는 1-gram(글자 << 16)으로 표현
+     * 색인 시에는 모든 단어의 첫 글자 1-gram을 포함하고, 검색 시에는 한 글자 단어일 때만 1-gram을 사용
+     * (한 글자 검색은 해당 글자로 시작하는 단어를 찾음)
+     * @param text     토큰화할 텍스트
+     * @param out      토큰을 추가할 목록 (중복 포함 가능)
+     * @param forQuery 검색어 토큰화 여부
+     */
+    static void tokenize(String text, IntList out, boolean forQuery) {
+        char prev = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                prev = 0;
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            if (prev != 0) {
+                out.add((prev << 16) | c);
+            } else if (!forQuery || i + 1 == n || !Character.isLetterOrDigit(text.charAt(i + 1))) {
+                out.add(c << 16);
+            }
+            prev = c;
+        }
+    }
+
+    private static int hash(Post post) {
+        return 31 * String.valueOf(post.title).hashCode() + String.valueOf(post.body).hashCode();
+    }
+
+    /**
+     * 스냅샷 형식: MAGIC, VERSION, 문서 수, (게시글 번호, 해시, 전문 여부, 제목)*, 토큰 수, (토큰, 개수, 문서 번호 차이*)*
+     */
+    private void writeSnapshot(Snapshot snapshot) throws IOException {
+        File temp = new File(indexFile.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            out.writeInt(snapshot.postIds.length);
+            for (int doc = 0; doc < snapshot.postIds.length; doc++) {
+                out.writeLong(snapshot.postIds[doc]);
+                out.writeInt(snapshot.hashes[doc]);
+                out.writeBoolean(snapshot.fullTexts[doc]);
+                writeString(out, snapshot.titles[doc]);
+            }
+
+            out.writeInt(snapshot.terms.length);
+            for (int i = 0; i < snapshot.terms.length; i++) {
+                int[] docs = snapshot.postings[i];
+                out.writeInt(snapshot.terms[i]);
+                writeVarInt(out, docs.length);
+                int last = 0;
+                for (int doc : docs) {
+                    writeVarInt(out, doc - last);
+                    last = doc;
+                }
+            }
+        }
+        if (!temp.renameTo(indexFile)) {
+            throw new IOException("cannot replace " + indexFile);
+        }
+    }
+
+    private void readSnapshot(Memory target) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("unsupported index file " + indexFile);
+            }
+
+            int docs = in.readInt();
+            if (docs < 0) {
+                throw new CorruptRecordException("corrupt index file " + indexFile);
+            }
+            for (int i = 0; i < docs; i++) {
+                long postId = in.readLong();
+                int hash = in.readInt();
+                boolean fullText = in.readBoolean();
+                int doc = target.newDoc(postId, hash, fullText, readString(in));
+                target.latestDocs.put(postId, doc);
+            }
+
+            int terms = in.readInt();
+            if (terms < 0) {
+                throw new CorruptRecordException("corrupt index file " + indexFile);
+            }
+            for (int i = 0; i < terms; i++) {
+                int term = in.readInt();
+                int size = readLength(in);
+                IntList list = new IntList();
+                list.values = new int[Math.max(size, 4)];
+                int last = 0;
+                for (int j = 0; j < size; j++) {
+                    last += readVarInt(in);
+                    if (last < 0 || last >= target.docCount) {
+                        throw new CorruptRecordException("corrupt index file " + indexFile);
+                    }
+                    list.values[j] = last;
+                }
+                list.size = size;
+                target.postings.put(term, list);
+            }
+        }
+    }
+
+    /**
+     * 로그의 게시글을 메모리 색인에 다시 반영
+     * 마지막 레코드가 잘려 있거나 손상되어 읽기를 중단하면 target.truncated를 설정
+     * @param file   로그 파일
+     * @param target 반영할 메모리 색인
+     * @return 읽은 레코드 수
+     */
+    private static int replayLog(File file, Memory target) throws IOException {
+        int records = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            while (in.available() > 0) {
+                Post post;
+                try {
+                    long postId = in.readLong();
+                    boolean fullText = in.readBoolean();
+                    post = new Post(postId, readString(in), readString(in), fullText);
+                } catch (EOFException | CorruptRecordException e) {
+                    // 기록 도중 중단되었거나 손상된 레코드 (이후 내용은 버림)
+                    target.truncated = true;
+                    break;
+                }
+                target.add(post);
+                records++;
+            }
+        }
+        return records;
+    }
+
+    private DataOutputStream openLog() throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFile, true)));
+    }
+
+    private static void appendFile(File from, File to) throws IOException {
+        if (!from.exists()) return;
+        try (InputStream in = new FileInputStream(from);
+             OutputStream out = new FileOutputStream(to, true)) {
+            byte[] buffer = new byte[8 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private static void writePost(DataOutputStream out, Post post) throws IOException {
+        out.writeLong(post.postId);
+        out.writeBoolean(post.fullText);
+        writeString(out, post.title != null ? post.title : "");
+        writeString(out, post.body != null ? post.body : "");
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new CorruptRecordException("malformed varint");
+    }
+
+    /**
+     * 길이 값을 읽고 음수이거나 남은 바이트보다 크면 손상된 레코드로 처리
+     */
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.available()) {
+            throw new CorruptRecordException("invalid length " + length);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,157 @@
+package com.mya;
+
+import android.webkit.CookieManager;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 게시판 페이지 응답을 가로채어 오프라인 검색 색인에 반영하는 WebViewClient
+ * 게시판 GET 요청은 직접 받아와 WebView에 그대로 전달하고, 정상(200) 응답 본문은 BoardIndexer의 색인 스레드에서 색인함
+ * 리다이렉트는 따라가지 않고 WebView가 직접 처리하도록 하여 WebView의 URL과 히스토리가 실제 이동 경로와 일치하도록 함
+ * 단, 이 경우 WebView가 같은 요청을 한 번 더 보내므로, 게시판 요청이 로그인 페이지로 리다이렉트되는
+ * 로그아웃 상태에서는 가로채지 않음 (로그인 상태에서 리다이렉트되는 드문 경우의 중복 요청은 감수)
+ */
+public class BoardWebViewClient extends WebViewClient {
+
+    // 색인 대상 경로 (목록, 상세)
+    private static final String LIST_PATH = "/board/list.do";
+    private static final String VIEW_PATH = "/board/view.do";
+
+    private final String baseUrl;
+    private final BoardIndexer indexer;
+    private final BooleanSupplier loggedIn;
+
+    /**
+     * 생성자
+     * @param baseUrl  웹 페이지 기본 URL
+     * @param indexer  게시글 색인 작업을 처리할 BoardIndexer (프로세스 전역 인스턴스)
+     * @param loggedIn 현재 로그인 여부 (WebView의 네트워크 스레드에서 호출됨)
+     */
+    public BoardWebViewClient(String baseUrl, BoardIndexer indexer, BooleanSupplier loggedIn) {
+        this.baseUrl = baseUrl;
+        this.indexer = indexer;
+        this.loggedIn = loggedIn;
+    }
+
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+        String url = request.getUrl().toString();
+        String path = boardPath(url);
+        if (!"GET".equals(request.getMethod()) || path == null || !loggedIn.getAsBoolean()) {
+            return null;  // WebView 기본 처리 (로그아웃 상태에서는 리다이렉트로 인한 중복 요청을 피함)
+        }
+
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            // 리다이렉트를 따라가면 다른 페이지 내용이 게시판 URL로 표시되므로 직접 따라가지 않음
+            connection.setInstanceFollowRedirects(false);
+            for (Map.Entry<String, String> header : request.getRequestHeaders().entrySet()) {
+                connection.setRequestProperty(header.getKey(), header.getValue());
+            }
+            // 로그인 세션 유지를 위해 WebView 쿠키 전달
+            String cookie = CookieManager.getInstance().getCookie(url);
+            if (cookie != null) {
+                connection.setRequestProperty("Cookie", cookie);
+            }
+
+            int status = connection.getResponseCode();
+            Map<String, String> headers = new HashMap<>();
+            for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+                if (header.getKey() == null || header.getValue().isEmpty()) continue;
+                if ("Set-Cookie".equalsIgnoreCase(header.getKey())) {
+                    // 가로챈 응답의 쿠키는 WebView에 저장되지 않으므로 직접 반영
+                    for (String value : header.getValue()) {
+                        CookieManager.getInstance().setCookie(url, value);
+                    }
+                    continue;
+                }
+                headers.put(header.getKey(), header.getValue().get(0));
+            }
+
+            if (status >= 300 && status < 400) {
+                // WebResourceResponse는 리다이렉트를 표현할 수 없으므로 WebView가 직접 요청하도록 함
+                // (같은 요청이 서버에 한 번 더 전달되며, 쿠키는 위에서 이미 반영됨)
+                return null;
+            }
+
+            // 오류 응답도 실제 상태 코드로 그대로 전달 (null 반환 시 WebView가 같은 요청을 다시 보냄)
+            InputStream stream = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+            byte[] body = stream != null ? readAll(stream) : new byte[0];
+
+            String mimeType = "text/html";
+            Charset charset = StandardCharsets.UTF_8;
+            String contentType = connection.getContentType();
+            if (contentType != null) {
+                String[] parts = contentType.split(";");
+                mimeType = parts[0].trim();
+                for (int i = 1; i < parts.length; i++) {
+                    String part = parts[i].trim();
+                    if (part.regionMatches(true, 0, "charset=", 0, 8)) {
+                        try {
+                            charset = Charset.forName(part.substring(8).replace("\"", ""));
+                        } catch (IllegalArgumentException ignored) {
+                            // 알 수 없는 문자셋은 UTF-8로 처리
+                        }
+                    }
+                }
+            }
+
+            // 정상 응답만 게시글 추출 및 색인 (백그라운드에서 처리)
+            if (status == HttpURLConnection.HTTP_OK) {
+                indexer.submitPage(new String(body, charset), path.startsWith(VIEW_PATH));
+            }
+
+            String reason = connection.getResponseMessage();
+            if (reason == null || reason.isEmpty()) {
+                reason = status == HttpURLConnection.HTTP_OK ? "OK" : "HTTP " + status;
+            }
+            return new WebResourceResponse(mimeType, charset.name(), status,
+                    reason, headers, new ByteArrayInputStream(body));
+        } catch (Exception e) {
+            // 요청/응답 처리 실패 시 WebView가 직접 요청하도록 null 반환
+            EventLog.e(EventLog.EV_BOARD_CAPTURE_FAILED, e);
+            return null;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * 색인 대상 게시판 페이지이면 baseUrl 뒤의 경로를, 아니면 null 반환
+     */
+    private String boardPath(String url) {
+        if (!url.startsWith(baseUrl)) return null;
+        String path = url.substring(baseUrl.length());
+        return path.startsWith(LIST_PATH) || path.startsWith(VIEW_PATH) ? path : null;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8 * 1024];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
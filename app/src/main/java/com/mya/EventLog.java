@@ -0,0 +1,222 @@
+package com.mya;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 앱 전역에서 사용하는 구조화된 이벤트 로그
+ * - 미리 할당된 링 버퍼에 정수 이벤트 코드와 기본형 필드만 기록 (기록 시 문자열 생성/객체 할당 없음)
+ * - 문자열 포맷팅은 dump() 호출 시점까지 미룸
+ * - 디버그 레벨(d)은 빌드 타입별 BuildConfig.EVENT_LOG_DEBUG 상수(debug: true, release: false)로 제어
+ *   호출부를 if (EventLog.DEBUG)로 감싸면 릴리즈 빌드에서는 javac가 호출과 인자 계산을 모두 제거함
+ *   (감싸지 않은 호출은 인자를 계산한 후 d() 안에서 무시됨)
+ * - 크래시 발생 시 또는 필요할 때 파일로 덤프
+ * 슬롯의 모든 필드는 volatile 의미로 읽고 쓰므로, 덤프 중 덮어써진 슬롯은 재확인으로 걸러짐
+ * 단, 버퍼 크기 이상의 기록이 한 슬롯 기록 중에 동시에 일어나면 해당 슬롯은 일부 필드가 섞일 수 있음 (최선 노력)
+ */
+public final class EventLog {
+
+    // 디버그 이벤트 기록 여부 (컴파일 시점 상수. 릴리즈 빌드에서는 false 가 되어 if (DEBUG) 블록이 제거됨)
+    public static final boolean DEBUG = BuildConfig.EVENT_LOG_DEBUG;
+
+    // 로그 레벨
+    public static final int LEVEL_DEBUG = 0;
+    public static final int LEVEL_INFO = 1;
+    public static final int LEVEL_ERROR = 2;
+
+    // 이벤트 코드 (NAMES 배열의 인덱스와 일치해야 함)
+    public static final int EV_ACTIVITY_CREATE = 0;      // 액티비티 생성
+    public static final int EV_MESSAGE_RECEIVED = 1;     // JS 메시지 수신 (a: 메시지 타입 코드)
+    public static final int EV_ROUTE_CHANGE = 2;         // 경로 변경 (a: 로그인 여부, b: 로그인 페이지 여부)
+    public static final int EV_MESSAGE_FAILED = 3;       // JS 메시지 처리 실패
+    public static final int EV_DOWNLOAD_ENQUEUED = 4;    // 다운로드 요청 (a: contentLength, b: 이미지 여부)
+    public static final int EV_DOWNLOAD_FAILED = 5;      // 다운로드 요청 실패
+    public static final int EV_FILE_CHOOSER_OPEN = 6;    // 파일 선택 창 표시
+    public static final int EV_FILE_CHOOSER_FAILED = 7;  // 파일 선택 창 표시 실패
+    public static final int EV_CRASH = 8;                // 처리되지 않은 예외
+    public static final int EV_BOARD_CAPTURED = 9;       // 게시판 페이지 색인 (a: 추출된 게시글 수, b: 새로 색인된 수)
+    public static final int EV_BOARD_CAPTURE_FAILED = 10; // 게시판 페이지 가로채기 실패
+    public static final int EV_BOARD_INDEX_FAILED = 11;  // 검색 색인 로드/저장 실패
+    public static final int EV_BOARD_SEARCH = 12;        // 게시글 검색 (a: 결과 수, b: 소요 시간 us)
+    public static final int EV_BOARD_SEARCH_FAILED = 13; // 게시글 검색 실패
+    public static final int EV_DUMP_FAILED = 14;         // 요청에 의한 이벤트 로그 덤프 실패
+
+    // 덤프 시 사용할 이벤트 이름
+    private static final String[] NAMES = {
+            "ACTIVITY_CREATE",
+            "MESSAGE_RECEIVED",
+            "ROUTE_CHANGE",
+            "MESSAGE_FAILED",
+            "DOWNLOAD_ENQUEUED",
+            "DOWNLOAD_FAILED",
+            "FILE_CHOOSER_OPEN",
+            "FILE_CHOOSER_FAILED",
+            "CRASH",
+            "BOARD_CAPTURED",
+            "BOARD_CAPTURE_FAILED",
+            "BOARD_INDEX_FAILED",
+            "BOARD_SEARCH",
+            "BOARD_SEARCH_FAILED",
+            "DUMP_FAILED"
+    };
+
+    private static final String[] LEVEL_NAMES = {"D", "I", "E"};
+
+    // 버퍼 크기 (2의 거듭제곱이어야 인덱스 계산을 마스크로 처리 가능)
+    static final int CAPACITY = 1024;
+    private static final int MASK = CAPACITY - 1;
+
+    // 다음에 기록할 시퀀스 번호
+    private static final AtomicLong cursor = new AtomicLong();
+
+    // 각 슬롯에 기록이 완료된 시퀀스 번호 (+1, 0은 비어 있음을 의미)
+    private static final AtomicLongArray published = new AtomicLongArray(CAPACITY);
+
+    // 슬롯별 이벤트 필드 (슬롯당 SLOT_FIELDS 개의 long: 코드/레벨, 시각, a, b)
+    private static final int SLOT_FIELDS = 4;
+    private static final AtomicLongArray fields = new AtomicLongArray(CAPACITY * SLOT_FIELDS);
+    private static final AtomicReferenceArray<Throwable> errors = new AtomicReferenceArray<>(CAPACITY);
+
+    // 크래시 핸들러 등록 여부 (액티비티 재생성 시 중복 등록 방지)
+    private static final AtomicBoolean crashHandlerInstalled = new AtomicBoolean();
+
+    private EventLog() {
+    }
+
+    /**
+     * 디버그 이벤트 기록 (릴리즈 빌드에서는 아무 동작도 하지 않음)
+     * 호출부에서 if (EventLog.DEBUG)로 감싸야 릴리즈 빌드에서 인자 계산까지 제거됨
+     */
+    public static void d(int code, long a, long b) {
+        if (DEBUG) {
+            record(LEVEL_DEBUG, code, a, b, null);
+        }
+    }
+
+    /**
+     * 정보 이벤트 기록
+     */
+    public static void i(int code, long a, long b) {
+        record(LEVEL_INFO, code, a, b, null);
+    }
+
+    /**
+     * 오류 이벤트 기록. 예외 객체는 참조만 보관하고 스택 트레이스는 덤프 시 출력
+     */
+    public static void e(int code, Throwable error) {
+        record(LEVEL_ERROR, code, 0, 0, error);
+    }
+
+    /**
+     * 링 버퍼의 다음 슬롯에 이벤트를 기록 (락 없이 시퀀스 번호로 슬롯을 할당)
+     */
+    private static void record(int level, int code, long a, long b, Throwable error) {
+        long seq = cursor.getAndIncrement();
+        int idx = (int) (seq & MASK);
+
+        int base = idx * SLOT_FIELDS;
+
+        // 기록 중임을 표시하여 덤프 시 읽지 않도록 함
+        published.set(idx, 0);
+        fields.set(base, ((long) code << 32) | level);
+        fields.set(base + 1, System.currentTimeMillis());
+        fields.set(base + 2, a);
+        fields.set(base + 3, b);
+        errors.set(idx, error);
+        // 기록 완료 공개
+        published.set(idx, seq + 1);
+    }
+
+    /**
+     * 현재 버퍼에 남아 있는 이벤트를 오래된 순서로 파일에 기록
+     * @param file 덤프할 파일
+     * @return 기록한 이벤트 수
+     */
+    public static int dump(File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(file, false))) {
+            return dump(out);
+        }
+    }
+
+    /**
+     * 현재 버퍼에 남아 있는 이벤트를 오래된 순서로 출력
+     * 다른 스레드가 덮어쓰는 중인 슬롯은 건너뜀
+     */
+    static int dump(PrintWriter out) {
+        long end = cursor.get();
+        long start = Math.max(0, end - CAPACITY);
+        int count = 0;
+
+        for (long seq = start; seq < end; seq++) {
+            int idx = (int) (seq & MASK);
+            if (published.get(idx) != seq + 1) continue;
+
+            int base = idx * SLOT_FIELDS;
+            long meta = fields.get(base);
+            int code = (int) (meta >>> 32);
+            int level = (int) meta;
+            long time = fields.get(base + 1);
+            long a = fields.get(base + 2);
+            long b = fields.get(base + 3);
+            Throwable error = errors.get(idx);
+
+            // 읽는 동안 슬롯이 덮어써졌으면 버림
+            if (published.get(idx) != seq + 1) continue;
+
+            out.print(time);
+            out.print(' ');
+            out.print(LEVEL_NAMES[level]);
+            out.print(' ');
+            out.print(code >= 0 && code < NAMES.length ? NAMES[code] : String.valueOf(code));
+            out.print(" a=");
+            out.print(a);
+            out.print(" b=");
+            out.println(b);
+            if (error != null) {
+                error.printStackTrace(out);
+            }
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    /**
+     * 처리되지 않은 예외 발생 시 버퍼를 파일로 덤프하도록 핸들러 등록
+     * 기존 핸들러는 덤프 후 그대로 호출되며, 두 번째 호출부터는 무시됨
+     * @param file 덤프할 파일
+     */
+    public static void installCrashHandler(File file) {
+        if (!crashHandlerInstalled.compareAndSet(false, true)) return;
+
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, throwable) -> {
+            e(EV_CRASH, throwable);
+            try {
+                dump(file);
+            } catch (IOException ignored) {
+                // 크래시 처리 중이므로 덤프 실패는 무시
+            }
+            if (previous != null) {
+                previous.uncaughtException(thread, throwable);
+            }
+        });
+    }
+
+    /**
+     * 버퍼 초기화 (테스트용)
+     */
+    static void reset() {
+        for (int i = 0; i < CAPACITY; i++) {
+            published.set(i, 0);
+            errors.set(i, null);
+        }
+        cursor.set(0);
+    }
+}
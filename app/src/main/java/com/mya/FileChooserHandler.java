@@ -3,7 +3,6 @@ package com.mya;
 import android.app.Activity;
 import android.content.Intent;
 import android.net.Uri;
-import android.util.Log;
 import android.webkit.WebChromeClient;
 import android.webkit.ValueCallback;
 import android.webkit.WebView;
@@ -58,7 +57,9 @@ public class FileChooserHandler {
             public boolean onShowFileChooser(WebView webView, ValueCallback<Uri[]> callback, FileChooserParams params) {
                 // 파일 선택 결과를 받을 콜백을 저장
                 filePathCallback = callback;
-                Log.d("FileChooser", "onShowFileChooser 호출됨");
+                if (EventLog.DEBUG) {
+                    EventLog.d(EventLog.EV_FILE_CHOOSER_OPEN, 0, 0);
+                }
 
                 try {
                     // 파일 선택 화면을 표시하기 위한 인텐트 생성
@@ -69,7 +70,7 @@ public class FileChooserHandler {
                     launcher.launch(intent);
                 } catch (Exception e) {
                     // 예외가 발생하면 파일 선택을 취소하고 null을 반환
-                    Log.e("FileChooser", "e.getMessage : "+e.getMessage());
+                    EventLog.e(EventLog.EV_FILE_CHOOSER_FAILED, e);
                     filePathCallback.onReceiveValue(null);
                     filePathCallback = null;  // 콜백 초기화
                     return false;  // 파일 선택 화면이 정상적으로 표시되지 않음
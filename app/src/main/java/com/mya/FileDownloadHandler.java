@@ -4,7 +4,6 @@ import android.app.Activity;
 import android.app.DownloadManager;
 import android.net.Uri;
 import android.os.Environment;
-import android.util.Log;
 import android.webkit.DownloadListener;
 import android.webkit.MimeTypeMap;
 import android.webkit.URLUtil;
@@ -84,9 +83,10 @@ public class FileDownloadHandler {
                     }
                 }
 
-                // 디버그용 로그: 다운로드하려는 파일 URL 및 추출된 파일명 출력
-                Log.d("FileDownload", "uri : "+uri);
-                Log.d("FileDownload", "filename : "+filename);
+                // 디버그용 이벤트: 다운로드 파일 크기 및 이미지 여부 기록
+                if (EventLog.DEBUG) {
+                    EventLog.d(EventLog.EV_DOWNLOAD_ENQUEUED, contentLength, mimeType.startsWith("image/") ? 1 : 0);
+                }
 
                 // 다운로드 요청을 위한 DownloadManager.Request 생성
                 DownloadManager.Request request = new DownloadManager.Request(uri);
@@ -111,9 +111,8 @@ public class FileDownloadHandler {
                     //Toast.makeText(activity, "Downloading: " + filename, Toast.LENGTH_SHORT).show();  // 다운로드 시작 토스트 메시지
                 }
             } catch (Exception e) {
-                // 예외 처리: 다운로드 요청 시 오류 발생 시 로그 출력
-                Log.e("FileDownload", "e.getMessage : "+e.getMessage());
-                e.printStackTrace();  // 오류 내용 출력
+                // 예외 처리: 다운로드 요청 시 오류 발생 시 이벤트 로그에 기록
+                EventLog.e(EventLog.EV_DOWNLOAD_FAILED, e);
             }
         };
     }
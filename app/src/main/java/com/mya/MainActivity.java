@@ -3,24 +3,36 @@ package com.mya;
 import android.os.Bundle;
 import androidx.appcompat.app.AppCompatActivity;
 
-import android.util.Log;
 import android.widget.Button;
 
+import java.io.File;
+import java.io.IOException;
+
 public class MainActivity extends AppCompatActivity {
 
+    // 이벤트 로그 덤프 파일명 (앱 내부 저장소, 크래시 덤프와 수동 덤프를 구분)
+    private static final String EVENT_LOG_FILE = "event_log.txt";
+    private static final String EVENT_LOG_MANUAL_FILE = "event_log_manual.txt";
+
     // WebView와 관련된 기능을 관리하는 객체
     private WebViewManager webViewManager;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+
+        // 크래시 발생 시 이벤트 로그를 내부 저장소에 덤프하도록 설정
+        EventLog.installCrashHandler(new File(getFilesDir(), EVENT_LOG_FILE));
+
         setContentView(R.layout.activity_main);  // 액티비티의 레이아웃 설정
 
         // 스토리지 권한을 요청하는 헬퍼 클래스 호출
         PermissionHelper.requestStoragePermission(this);
 
-        // 로그 출력: MainActivity의 onCreate가 호출되었음을 기록
-        Log.d("MainActivity onCreate", "onCreate");
+        // 이벤트 기록: MainActivity의 onCreate가 호출되었음을 기록
+        if (EventLog.DEBUG) {
+            EventLog.d(EventLog.EV_ACTIVITY_CREATE, 0, 0);
+        }
 
         // WebView와 관련된 작업을 관리할 WebViewManager 객체 초기화
         // activity_main.xml 레이아웃에서 webview 요소를 찾아서 WebViewManager에 전달
@@ -52,4 +64,15 @@ public class MainActivity extends AppCompatActivity {
         // 파일 선택 후 그 결과를 WebView에서 처리할 수 있도록 전달
         webViewManager.onFileChooserResult(requestCode, resultCode, data);
     }
+
+    /**
+     * 현재까지 기록된 이벤트 로그를 내부 저장소 파일로 덤프 (WebAppInterface.dumpEventLog 에서 호출)
+     * 크래시 덤프를 덮어쓰지 않도록 별도 파일 사용
+     * @return 덤프된 파일
+     */
+    public File dumpEventLog() throws IOException {
+        File file = new File(getFilesDir(), EVENT_LOG_MANUAL_FILE);
+        EventLog.dump(file);
+        return file;
+    }
 }
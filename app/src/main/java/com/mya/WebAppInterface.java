@@ -1,18 +1,25 @@
 package com.mya;
 
 import android.content.Context;
-import android.util.Log;
 import android.webkit.JavascriptInterface;
 import android.webkit.WebView;
 import android.widget.Toast;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.util.List;
+
 /**
  * WebView에서 JavaScript로부터 메시지를 받아서 처리하는 클래스
  * JavaScript와 Android 네이티브 코드 간의 상호작용을 관리
  */
 public class WebAppInterface {
+    // 이벤트 로그에 기록할 메시지 타입 코드
+    static final int MSG_UNKNOWN = 0;
+    static final int MSG_ROUTE_CHANGE = 1;
+    static final int MSG_LOGIN = 2;
+
     private final Context context;
     private final WebViewManager webViewManager;
 
@@ -39,7 +46,7 @@ public class WebAppInterface {
             JSONObject obj = new JSONObject(message);
 
             String type = obj.optString("type");   // 메시지 유형
-            Log.d("WebAppInterface", "type: " + type);
+            logMessage(type);
 
             // 메시지 타입이 "ROUTE_CHANGE"일 경우 처리
             if ("ROUTE_CHANGE".equals(type)) {
@@ -47,13 +54,8 @@ public class WebAppInterface {
                 String path = obj.optString("path");           // 현재 경로
                 String userId = obj.optString("userId");       // 사용자 ID
 
-                // 로그인 여부 판별: userId가 비어있지 않고 로그인 경로가 아님
-                boolean isLoggedIn =
-                        userId != null && !userId.isEmpty() && !"/user/login.do".equals(path);
-
-                Log.d("WebAppInterface", "path: " + path);
-                Log.d("WebAppInterface", "User ID: " + userId);
-                Log.d("WebAppInterface", "Login Check Status: " + isLoggedIn);
+                // 로그인 여부 판별 및 이벤트 기록
+                boolean isLoggedIn = routeLoginStatus(path, userId);
 
                 // MainActivity의 UI 스레드에서 로그인 상태 갱신
                 if (context instanceof MainActivity) {
@@ -83,10 +85,92 @@ public class WebAppInterface {
                 }
             }
         } catch (Exception e) {
-            // 예외 발생 시 로그 출력 및 사용자에게 메시지 표시
-            e.printStackTrace();
-            Log.e("WebAppInterface", "e message: " + e.getMessage());
+            // 예외 발생 시 이벤트 로그에 기록 (스택 트레이스는 덤프 시 출력)
+            EventLog.e(EventLog.EV_MESSAGE_FAILED, e);
             //Toast.makeText(context.getApplicationContext(), "예외 발생: " + e.getMessage(), Toast.LENGTH_LONG).show();
         }
     }
+
+    /**
+     * JavaScript에서 호출될 수 있는 이벤트 로그 덤프 메서드 (디버그 빌드 전용)
+     * 크래시 덤프와 구분되는 별도 파일에 기록
+     *
+     * @return 덤프된 파일 경로, 릴리즈 빌드이거나 실패 시 빈 문자열
+     */
+    @JavascriptInterface
+    public String dumpEventLog() {
+        if (!EventLog.DEBUG || !(context instanceof MainActivity)) return "";
+        try {
+            return ((MainActivity) context).dumpEventLog().getPath();
+        } catch (Exception e) {
+            EventLog.e(EventLog.EV_DUMP_FAILED, e);
+            return "";
+        }
+    }
+
+    /**
+     * JavaScript에서 호출될 수 있는 오프라인 게시글 검색 메서드
+     * 이미 열람한 게시판 페이지에서 색인된 게시글을 검색하여 최신 순으로 반환
+     *
+     * @param query  검색어
+     * @param limit  최대 결과 수
+     * @return JSON 배열 문자열 ([{"postId": 1, "title": "..."}]), 실패 시 빈 배열
+     */
+    @JavascriptInterface
+    public String searchBoard(String query, int limit) {
+        long start = EventLog.DEBUG ? System.nanoTime() : 0;
+        JSONArray array = new JSONArray();
+        try {
+            List<BoardSearchIndex.Result> results = webViewManager.getBoardSearchIndex().search(query, limit);
+            for (BoardSearchIndex.Result result : results) {
+                JSONObject item = new JSONObject();
+                item.put("postId", result.postId);
+                item.put("title", result.title);
+                array.put(item);
+            }
+        } catch (Exception e) {
+            EventLog.e(EventLog.EV_BOARD_SEARCH_FAILED, e);
+        }
+        if (EventLog.DEBUG) {
+            EventLog.d(EventLog.EV_BOARD_SEARCH, array.length(), (System.nanoTime() - start) / 1000);
+        }
+        return array.toString();
+    }
+
+    /**
+     * 메시지 수신 이벤트 기록 (receiveMessage 처리 경로의 로깅, 할당 없음)
+     * @param type 메시지 타입
+     */
+    static void logMessage(String type) {
+        if (EventLog.DEBUG) {
+            EventLog.d(EventLog.EV_MESSAGE_RECEIVED, messageTypeCode(type), 0);
+        }
+    }
+
+    /**
+     * ROUTE_CHANGE 메시지의 로그인 여부를 판별하고 이벤트 기록
+     * 로그인 상태: userId가 비어있지 않고 로그인 경로가 아님
+     * @param path   현재 경로
+     * @param userId 사용자 ID
+     * @return 로그인 여부
+     */
+    static boolean routeLoginStatus(String path, String userId) {
+        boolean isLoginPage = "/user/login.do".equals(path);
+        boolean isLoggedIn = userId != null && !userId.isEmpty() && !isLoginPage;
+        if (EventLog.DEBUG) {
+            EventLog.d(EventLog.EV_ROUTE_CHANGE, isLoggedIn ? 1 : 0, isLoginPage ? 1 : 0);
+        }
+        return isLoggedIn;
+    }
+
+    /**
+     * 메시지 타입 문자열을 이벤트 로그용 정수 코드로 변환
+     * @param type 메시지 타입
+     * @return 메시지 타입 코드
+     */
+    static int messageTypeCode(String type) {
+        if ("ROUTE_CHANGE".equals(type)) return MSG_ROUTE_CHANGE;
+        if ("LOGIN".equals(type)) return MSG_LOGIN;
+        return MSG_UNKNOWN;
+    }
 }
@@ -5,7 +5,6 @@ import android.content.Intent;
 import android.webkit.WebView;
 import android.webkit.WebSettings;
 import android.net.Uri;
-import android.webkit.WebViewClient;
 import android.widget.Toast;
 import android.view.View;
 
@@ -21,24 +20,39 @@ import android.widget.Button;
 public class WebViewManager {
     private final Activity activity;              // 현재 액티비티 참조
     private final WebView webView;                // WebView 인스턴스
-    private final String baseUrl = "http://192.168.0.23:3000";  // 웹 페이지 기본 URL
+    private final String baseUrl;                 // 웹 페이지 기본 URL
     private final FileChooserHandler fileChooserHandler;        // 파일 선택 처리 핸들러
     private final FileDownloadHandler fileDownloadHandler;      // 파일 다운로드 처리 핸들러
-    private boolean gLoginCheck = true;           // 로그인 상태 플래그
+    private final BoardIndexer boardIndexer;                    // 오프라인 게시글 검색 색인 (프로세스 전역)
+    private volatile boolean gLoginCheck = true;  // 로그인 상태 플래그 (WebView 네트워크 스레드에서도 읽음)
 
     /**
-     * 생성자
+     * 생성자 (빌드 설정의 BASE_URL 사용)
      * @param activity  현재 액티비티
      * @param webView   WebView 인스턴스
      */
     public WebViewManager(Activity activity, WebView webView) {
+        this(activity, webView, BuildConfig.BASE_URL);
+    }
+
+    /**
+     * 생성자
+     * @param activity  현재 액티비티
+     * @param webView   WebView 인스턴스
+     * @param baseUrl   웹 페이지 기본 URL (테스트에서는 로컬 대체 서버 주소)
+     */
+    public WebViewManager(Activity activity, WebView webView, String baseUrl) {
         this.activity = activity;
         this.webView = webView;
+        this.baseUrl = baseUrl;
 
         // 파일 선택 및 다운로드 처리 핸들러 초기화
         fileChooserHandler = new FileChooserHandler(activity);
         fileDownloadHandler = new FileDownloadHandler(activity);
 
+        // 게시글 검색 색인 (액티비티가 재생성되어도 같은 인스턴스 사용, 로드는 백그라운드로 수행)
+        boardIndexer = BoardIndexer.getInstance(activity);
+
         // WebView 설정 초기화
         setupWebView();
 
@@ -76,8 +90,8 @@ public class WebViewManager {
         // JavaScript에서 호출 가능한 인터페이스 객체 추가 (Android라는 이름으로 JS에서 접근)
         webView.addJavascriptInterface(new WebAppInterface(activity, this), "Android");
 
-        // 기본 WebViewClient 설정 (내부 WebView에서 페이지 열기)
-        webView.setWebViewClient(new WebViewClient());
+        // WebViewClient 설정 (내부 WebView에서 페이지 열기, 게시판 페이지는 가로채어 검색 색인에 반영)
+        webView.setWebViewClient(new BoardWebViewClient(baseUrl, boardIndexer, this::isLoggedIn));
 
         // WebView가 포커스를 받을 수 있도록 설정 (입력 반응 가능)
         webView.setFocusable(true);
@@ -170,6 +184,22 @@ public class WebViewManager {
         this.gLoginCheck = loginStatus;
     }
 
+    /**
+     * 오프라인 게시글 검색 색인을 반환
+     * @return 게시글 검색 색인
+     */
+    public BoardSearchIndex getBoardSearchIndex() {
+        return boardIndexer.getIndex();
+    }
+
+    /**
+     * 웹 페이지 기본 URL을 반환
+     * @return 기본 URL
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
     /**
      * 현재 WebView 객체를 반환
      * @return WebView 인스턴스
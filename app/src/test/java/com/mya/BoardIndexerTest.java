@@ -0,0 +1,91 @@
+package com.mya;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.*;
+
+/**
+ * BoardIndexer의 색인 로드 실패 시 복구 및 페이지 색인 동작
+ */
+public class BoardIndexerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        EventLog.reset();
+    }
+
+    @Test
+    public void open_deletesCorruptIndexAndStartsEmpty() throws Exception {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = new BoardSearchIndex(dir);
+        index.open();
+        index.add(new BoardSearchIndex.Post(1, "서비스 점검 안내", "점검 일정"));
+        index.compact();
+        index.close();
+
+        // 스냅샷을 읽을 수 없는 내용으로 덮어씀
+        Files.write(new File(dir, "index.dat").toPath(), "not an index".getBytes(StandardCharsets.UTF_8));
+
+        BoardIndexer indexer = new BoardIndexer(dir);
+        indexer.awaitIdle();
+
+        assertEquals(0, indexer.getIndex().size());
+        assertFalse(new File(dir, "index.dat").exists());
+        assertTrue(dumpEventLog().contains("BOARD_INDEX_FAILED"));
+
+        // 새 색인에 정상적으로 추가되고 다시 열 수 있음
+        indexer.submitPage(readResource("standin/board_list.html"), false);
+        indexer.awaitIdle();
+        assertEquals(3, indexer.getIndex().size());
+        assertEquals(101, indexer.getIndex().search("점검", 10).get(0).postId);
+
+        BoardIndexer reopened = new BoardIndexer(dir);
+        reopened.awaitIdle();
+        assertEquals(3, reopened.getIndex().size());
+    }
+
+    @Test
+    public void open_keepsIndexWhenLogTailIsCorrupt() throws Exception {
+        File dir = folder.newFolder();
+        BoardIndexer indexer = new BoardIndexer(dir);
+        indexer.submitPage(readResource("standin/board_list.html"), false);
+        indexer.awaitIdle();
+
+        // 로그 끝에 잘린 레코드가 남은 경우는 색인을 버리지 않고 앞부분을 유지
+        Files.write(new File(dir, "posts.log").toPath(), new byte[]{0, 0, 0},
+                StandardOpenOption.APPEND);
+
+        BoardIndexer reopened = new BoardIndexer(dir);
+        reopened.awaitIdle();
+        assertEquals(3, reopened.getIndex().size());
+        assertFalse(dumpEventLog().contains("BOARD_INDEX_FAILED"));
+    }
+
+    private static String dumpEventLog() {
+        StringWriter text = new StringWriter();
+        EventLog.dump(new PrintWriter(text));
+        return text.toString();
+    }
+
+    private static String readResource(String resource) throws IOException {
+        try (InputStream in = BoardIndexerTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(resource, in);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
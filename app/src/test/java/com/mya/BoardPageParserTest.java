@@ -0,0 +1,84 @@
+package com.mya;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * BoardPageParser의 게시판 목록/상세 페이지 마크업 추출 동작
+ */
+public class BoardPageParserTest {
+
+    @Test
+    public void parse_extractsPostsFromRecordedBoardPage() throws IOException {
+        List<BoardSearchIndex.Post> posts = BoardPageParser.parse(readResource("standin/board_list.html"));
+
+        assertEquals(3, posts.size());
+        assertEquals(101, posts.get(0).postId);
+        assertFalse(posts.get(0).fullText);
+        assertEquals("서비스 점검 안내", posts.get(0).title);
+        assertTrue(posts.get(0).body.contains("서버 점검"));
+    }
+
+    @Test
+    public void parse_extractsPostFromRecordedDetailPage() throws IOException {
+        List<BoardSearchIndex.Post> posts = BoardPageParser.parse(readResource("standin/board_view.html"), true);
+
+        assertEquals(1, posts.size());
+        assertEquals(101, posts.get(0).postId);
+        assertTrue(posts.get(0).fullText);
+        assertEquals("서비스 점검 안내", posts.get(0).title);
+        assertTrue(posts.get(0).body.contains("서버 점검"));
+        assertTrue(posts.get(0).body.contains("로그인 & 파일 다운로드"));
+        assertFalse(posts.get(0).body.contains("관리자"));
+    }
+
+    @Test
+    public void parse_matchesAttributesInAnyOrderWithExtraClasses() {
+        String html = "<ul>"
+                + "<li data-post-id=\"5\" class=\"board-post\"><a class=\"post-title\">역순 속성</a></li>"
+                + "<li class=\"board-post notice\" data-post-id=\"6\"><a class=\"link post-title\">공지 글</a>"
+                + "<p class=\"post-content\">본문</p></li>"
+                + "<li class=\"board-post-header\" data-post-id=\"7\"><a class=\"post-title\">헤더</a></li>"
+                + "<li class=\"board-post\"><a class=\"post-title\">번호 없음</a></li>"
+                + "</ul>";
+
+        List<BoardSearchIndex.Post> posts = BoardPageParser.parse(html);
+
+        assertEquals(2, posts.size());
+        assertEquals(5, posts.get(0).postId);
+        assertEquals("역순 속성", posts.get(0).title);
+        assertEquals(6, posts.get(1).postId);
+        assertEquals("공지 글", posts.get(1).title);
+        assertEquals("본문", posts.get(1).body);
+    }
+
+    @Test
+    public void parse_findsPostsNestedInNonPostContainers() {
+        String html = "<article class=\"board-wrap\"><ul>"
+                + "<li class=\"board-post\" data-post-id=\"1\"><a class=\"post-title\">첫 글</a></li>"
+                + "<li class=\"board-post\" data-post-id=\"2\"><a class=\"post-title\">둘째 글</a></li>"
+                + "</ul></article>"
+                + "<ul><li class=\"menu\"><a href=\"/\">홈</a></li></ul>"
+                + "<li class=\"board-post\" data-post-id=\"3\"><a class=\"post-title\">셋째 글</a></li>";
+
+        List<BoardSearchIndex.Post> posts = BoardPageParser.parse(html);
+
+        assertEquals(3, posts.size());
+        assertEquals(1, posts.get(0).postId);
+        assertEquals(2, posts.get(1).postId);
+        assertEquals(3, posts.get(2).postId);
+    }
+
+    private static String readResource(String resource) throws IOException {
+        try (InputStream in = BoardPageParserTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(resource, in);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
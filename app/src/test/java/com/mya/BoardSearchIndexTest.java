@@ -0,0 +1,333 @@
+package com.mya;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * BoardSearchIndex 색인/검색/저장 동작 및 색인 크기, 검색 지연 시간 벤치마크
+ */
+public class BoardSearchIndexTest {
+
+    // 벤치마크용 게시글 수
+    private static final int BENCHMARK_POSTS = 30_000;
+    // 벤치마크 색인을 디스크에서 여는 시간 예산
+    private static final long OPEN_MAX_MILLIS = 1_000;
+
+    private static final String[] WORDS = {
+            "서비스", "점검", "안내", "반려동물", "건강검진", "이벤트", "할인", "쿠폰", "예약", "업데이트",
+            "파일", "다운로드", "기능", "개선", "공지", "산책", "사료", "병원", "접종", "미용",
+            "회원", "등급", "혜택", "문의", "답변", "배송", "주문", "취소", "환불", "일정"
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void search_matchesKoreanSubstringsInTitleAndBody() throws IOException {
+        BoardSearchIndex index = open(folder.newFolder());
+        index.add(new BoardSearchIndex.Post(1, "서비스 점검 안내", "새벽 2시부터 서버점검이 진행됩니다."));
+        index.add(new BoardSearchIndex.Post(2, "건강검진 이벤트", "예약 시 할인 쿠폰 제공"));
+
+        assertEquals(1, index.search("점검", 10).size());
+        assertEquals(1, index.search("서버점검", 10).size());
+        assertEquals(2, index.search("쿠폰", 10).get(0).postId);
+        assertEquals(1, index.search("서", 10).size());
+        assertTrue(index.search("환불", 10).isEmpty());
+    }
+
+    @Test
+    public void add_replacesUpdatedPostAndSkipsUnchanged() throws IOException {
+        BoardSearchIndex index = open(folder.newFolder());
+        assertTrue(index.add(new BoardSearchIndex.Post(1, "공지", "산책 일정")));
+        assertFalse(index.add(new BoardSearchIndex.Post(1, "공지", "산책 일정")));
+        assertTrue(index.add(new BoardSearchIndex.Post(1, "공지", "미용 일정")));
+
+        assertEquals(1, index.size());
+        assertTrue(index.search("산책", 10).isEmpty());
+        assertEquals(1, index.search("미용", 10).size());
+    }
+
+    @Test
+    public void add_keepsDetailBodyOverListExcerpt() throws IOException {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = open(dir);
+
+        // 목록 → 상세 → 목록 순으로 열람
+        for (BoardSearchIndex.Post post : BoardPageParser.parse(readResource("standin/board_list.html"), false)) {
+            index.add(post);
+        }
+        for (BoardSearchIndex.Post post : BoardPageParser.parse(readResource("standin/board_view.html"), true)) {
+            assertTrue(index.add(post));
+        }
+        for (BoardSearchIndex.Post post : BoardPageParser.parse(readResource("standin/board_list.html"), false)) {
+            assertFalse(index.add(post));   // 전문이 있는 게시글은 발췌문으로 교체하지 않고 로그에도 기록하지 않음
+        }
+
+        assertEquals(101, index.search("로그인", 10).get(0).postId);
+        index.compact();
+        index.close();
+
+        // 스냅샷에서 다시 읽어도 전문 여부가 유지됨
+        BoardSearchIndex reopened = open(dir);
+        for (BoardSearchIndex.Post post : BoardPageParser.parse(readResource("standin/board_list.html"), false)) {
+            assertFalse(reopened.add(post));
+        }
+        assertEquals(101, reopened.search("로그인", 10).get(0).postId);
+
+        // 제목이 바뀐 경우는 수정된 게시글이므로 발췌문으로 교체
+        assertTrue(reopened.add(new BoardSearchIndex.Post(101, "서비스 점검 연기", "점검이 연기되었습니다.")));
+        assertTrue(reopened.search("로그인", 10).isEmpty());
+        assertEquals(101, reopened.search("연기", 10).get(0).postId);
+    }
+
+    @Test
+    public void open_restoresSnapshotAndLog() throws IOException {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = open(dir);
+        index.add(new BoardSearchIndex.Post(1, "서비스 점검 안내", "점검 일정"));
+        index.compact();
+        index.add(new BoardSearchIndex.Post(2, "앱 업데이트 안내", "다운로드 기능 개선"));
+        index.close();
+
+        BoardSearchIndex reopened = open(dir);
+        assertEquals(2, reopened.size());
+        assertEquals(2, reopened.search("안내", 10).size());
+        assertEquals(2, reopened.search("다운로드", 10).get(0).postId);
+    }
+
+    @Test
+    public void search_returnsEmptyWhileLoadingWithoutBlocking() throws Exception {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = open(dir);
+        index.add(new BoardSearchIndex.Post(1, "서비스 점검 안내", "점검 일정"));
+        index.close();
+
+        // 로드 전에는 예외 없이 빈 결과
+        BoardSearchIndex reopened = new BoardSearchIndex(dir);
+        assertTrue(reopened.search("점검", 10).isEmpty());
+        assertEquals(0, reopened.size());
+
+        reopened.open();
+        assertEquals(1, reopened.search("점검", 10).size());
+    }
+
+    @Test
+    public void open_dropsTruncatedLogTailAndKeepsEarlierPosts() throws IOException {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = open(dir);
+        index.add(new BoardSearchIndex.Post(1, "서비스 점검 안내", "점검 일정"));
+        index.add(new BoardSearchIndex.Post(2, "앱 업데이트 안내", "다운로드 기능 개선"));
+        index.add(new BoardSearchIndex.Post(3, "건강검진 이벤트", "할인 쿠폰 제공"));
+        index.close();
+
+        // 마지막 레코드 기록 도중 중단된 것처럼 끝 부분을 잘라냄
+        File log = new File(dir, "posts.log");
+        truncate(log, log.length() - 5);
+
+        BoardSearchIndex reopened = open(dir);
+        assertEquals(2, reopened.size());
+        assertEquals(1, reopened.search("점검", 10).get(0).postId);
+        assertEquals(2, reopened.search("다운로드", 10).get(0).postId);
+        assertTrue(reopened.search("쿠폰", 10).isEmpty());
+
+        // 복구 시 스냅샷으로 정리되어 이후 추가한 게시글과 함께 다시 열림
+        assertTrue(new File(dir, "index.dat").exists());
+        assertEquals(0, log.length());
+        reopened.add(new BoardSearchIndex.Post(3, "건강검진 이벤트", "할인 쿠폰 제공"));
+        reopened.close();
+        assertEquals(3, open(dir).size());
+    }
+
+    @Test
+    public void open_stopsAtCorruptLogRecord() throws IOException {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = open(dir);
+        index.add(new BoardSearchIndex.Post(1, "서비스 점검 안내", "점검 일정"));
+        index.close();
+
+        // 게시글 번호 뒤에 잘못된 가변 길이 정수(길이)가 오는 레코드와 그 뒤의 쓰레기 값
+        try (FileOutputStream out = new FileOutputStream(new File(dir, "posts.log"), true)) {
+            out.write(new byte[]{0, 0, 0, 0, 0, 0, 0, 2, 0,
+                    (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 1, 2, 3});
+        }
+
+        BoardSearchIndex reopened = open(dir);
+        assertEquals(1, reopened.size());
+        assertEquals(1, reopened.search("점검", 10).get(0).postId);
+        assertTrue(reopened.add(new BoardSearchIndex.Post(2, "앱 업데이트 안내", "다운로드 기능 개선")));
+        reopened.close();
+        assertEquals(2, open(dir).size());
+    }
+
+    @Test
+    public void open_replaysLeftoverLogFromInterruptedCompaction() throws IOException {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = open(dir);
+        index.add(new BoardSearchIndex.Post(1, "서비스 점검 안내", "점검 일정"));
+        index.compact();
+        index.add(new BoardSearchIndex.Post(2, "앱 업데이트 안내", "다운로드 기능 개선"));
+        index.close();
+
+        // 압축 중 스냅샷 교체 전에 중단된 상태: 압축 대상 로그(posts.log.old)와 그 이후의 새 로그가 함께 남음
+        File oldLog = new File(dir, "posts.log.old");
+        assertTrue(new File(dir, "posts.log").renameTo(oldLog));
+        File other = folder.newFolder();
+        BoardSearchIndex newer = open(other);
+        newer.add(new BoardSearchIndex.Post(3, "건강검진 이벤트", "할인 쿠폰 제공"));
+        newer.close();
+        Files.copy(new File(other, "posts.log").toPath(), new File(dir, "posts.log").toPath());
+
+        BoardSearchIndex reopened = open(dir);
+        assertEquals(3, reopened.size());
+        assertEquals(2, reopened.search("다운로드", 10).get(0).postId);
+        assertEquals(3, reopened.search("쿠폰", 10).get(0).postId);
+        assertFalse(oldLog.exists());
+        reopened.close();
+
+        // 스냅샷만으로도 모든 게시글이 복원됨
+        assertTrue(new File(dir, "posts.log").delete());
+        assertEquals(3, open(dir).size());
+    }
+
+    @Test
+    public void open_rejectsCorruptSnapshot() throws IOException {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = open(dir);
+        for (int i = 0; i < 20; i++) {
+            index.add(new BoardSearchIndex.Post(i, "공지 " + i, "산책 일정 " + i));
+        }
+        index.compact();
+        index.close();
+
+        File snapshot = new File(dir, "index.dat");
+        byte[] valid = Files.readAllBytes(snapshot.toPath());
+
+        // 잘린 스냅샷
+        truncate(snapshot, valid.length / 2);
+        assertOpenFails(dir);
+
+        // 지원하지 않는 형식
+        byte[] badMagic = valid.clone();
+        badMagic[0] ^= 0x7F;
+        Files.write(snapshot.toPath(), badMagic);
+        assertOpenFails(dir);
+
+        // 포스팅 목록의 마지막 문서 번호 차이를 문서 수보다 크게 변경
+        byte[] badPosting = valid.clone();
+        badPosting[badPosting.length - 1] = 0x7F;
+        Files.write(snapshot.toPath(), badPosting);
+        assertOpenFails(dir);
+    }
+
+    /**
+     * 게시글 30,000건을 색인한 후 디스크 색인 크기와 검색 지연 시간을 측정
+     */
+    @Test
+    public void benchmark_indexSizeAndQueryLatency() throws Exception {
+        File dir = folder.newFolder();
+        BoardSearchIndex index = open(dir);
+        Random random = new Random(42);
+
+        long indexStart = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_POSTS; i++) {
+            index.add(new BoardSearchIndex.Post(i, sentence(random, 4), sentence(random, 40)));
+        }
+        index.compact();
+        long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+        index.close();
+
+        // 다시 열어 디스크에서 로드한 색인으로 측정. 로드 중에도 검색이 로드 시간만큼 막히지 않는지 함께 측정
+        BoardSearchIndex loading = new BoardSearchIndex(dir);
+        long openStart = System.nanoTime();
+        Thread opener = new Thread(() -> {
+            try {
+                loading.open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        opener.start();
+        long maxSearchNanos = 0;
+        while (opener.isAlive()) {
+            long searchStart = System.nanoTime();
+            loading.search("점검", 20);
+            maxSearchNanos = Math.max(maxSearchNanos, System.nanoTime() - searchStart);
+        }
+        opener.join();
+        long openMillis = (System.nanoTime() - openStart) / 1_000_000;
+        index = loading;
+        long indexBytes = new File(dir, "index.dat").length();
+
+        String[] queries = {"점검", "건강검진", "반려동물 병원", "할인 쿠폰", "다운로드 기능", "서", "접종 일정 안내"};
+        for (int i = 0; i < 1_000; i++) {
+            index.search(queries[i % queries.length], 20);  // JIT 워밍업
+        }
+
+        int iterations = 10_000;
+        long queryStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            index.search(queries[i % queries.length], 20);
+        }
+        double queryMillis = (System.nanoTime() - queryStart) / 1_000_000.0 / iterations;
+
+        System.out.println("BoardSearchIndex: " + BENCHMARK_POSTS + " posts, index " + indexBytes / 1024 + " KB, "
+                + "build " + indexMillis + " ms, open " + openMillis + " ms "
+                + "(max search while opening " + maxSearchNanos / 1_000_000 + " ms), "
+                + String.format("%.3f", queryMillis) + " ms/query");
+
+        assertEquals(BENCHMARK_POSTS, index.size());
+        assertTrue("open " + openMillis + " ms", openMillis < OPEN_MAX_MILLIS);
+        assertTrue("query " + queryMillis + " ms", queryMillis < 5);
+    }
+
+    private static void assertOpenFails(File dir) {
+        try {
+            new BoardSearchIndex(dir).open();
+            fail("corrupt snapshot opened");
+        } catch (IOException expected) {
+            // BoardIndexer가 색인 파일을 지우고 빈 색인으로 다시 시작
+        }
+    }
+
+    private static void truncate(File file, long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(length);
+        }
+    }
+
+    private static BoardSearchIndex open(File dir) throws IOException {
+        BoardSearchIndex index = new BoardSearchIndex(dir);
+        index.open();
+        return index;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) builder.append(' ');
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static String readResource(String resource) throws IOException {
+        try (InputStream in = BoardSearchIndexTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(resource, in);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
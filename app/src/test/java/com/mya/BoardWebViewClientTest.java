@@ -0,0 +1,143 @@
+package com.mya;
+
+import static org.junit.Assert.*;
+
+import android.webkit.CookieManager;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * BoardWebViewClient가 로컬 대체 서버(StandInServer)의 게시판 응답을 그대로 전달하고,
+ * 쿠키를 WebView에 반영하며, 정상 응답만 색인하는지 확인
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class BoardWebViewClientTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private StandInServer server;
+    private BoardIndexer indexer;
+    private BoardWebViewClient client;
+    private boolean loggedIn = true;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StandInServer(0, 0);
+        indexer = new BoardIndexer(folder.newFolder());
+        client = new BoardWebViewClient(server.baseUrl(), indexer, () -> loggedIn);
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+        CookieManager.getInstance().removeAllCookies(null);
+    }
+
+    @Test
+    public void intercept_passesBodyThroughSyncsCookieAndIndexesPosts() throws Exception {
+        server.respond("/board/list.do", 200, "standin/board_list.html", "text/html; charset=UTF-8",
+                Collections.singletonMap("Set-Cookie", "JSESSIONID=abc123; Path=/"));
+        String url = server.baseUrl() + "/board/list.do?page=1";
+
+        WebResourceResponse response = client.shouldInterceptRequest(null, request("GET", url));
+
+        assertNotNull(response);
+        assertEquals(200, response.getStatusCode());
+        assertEquals("text/html", response.getMimeType());
+        assertEquals("UTF-8", response.getEncoding());
+        assertArrayEquals(readResource("standin/board_list.html"), readAll(response.getData()));
+        assertEquals(1, server.getRequestCount());
+
+        String cookie = CookieManager.getInstance().getCookie(url);
+        assertNotNull(cookie);
+        assertTrue(cookie, cookie.contains("JSESSIONID=abc123"));
+
+        indexer.awaitIdle();
+        List<BoardSearchIndex.Result> results = indexer.getIndex().search("점검", 10);
+        assertEquals(1, results.size());
+        assertEquals(101, results.get(0).postId);
+    }
+
+    @Test
+    public void intercept_passesErrorStatusThroughWithoutIndexing() throws Exception {
+        server.respond("/board/list.do", 500, "standin/error.html", "text/html; charset=UTF-8",
+                Collections.emptyMap());
+
+        WebResourceResponse response = client.shouldInterceptRequest(null,
+                request("GET", server.baseUrl() + "/board/list.do"));
+
+        // null을 반환하면 WebView가 같은 요청을 다시 보내므로 오류 응답도 그대로 전달해야 함
+        assertNotNull(response);
+        assertEquals(500, response.getStatusCode());
+        assertFalse(response.getReasonPhrase().isEmpty());
+        assertArrayEquals(readResource("standin/error.html"), readAll(response.getData()));
+        assertEquals(1, server.getRequestCount());
+
+        indexer.awaitIdle();
+        assertEquals(0, indexer.getIndex().size());
+    }
+
+    @Test
+    public void intercept_leavesRedirectToWebView() throws Exception {
+        server.redirect("/board/view.do", "/user/login.do");
+
+        WebResourceResponse response = client.shouldInterceptRequest(null,
+                request("GET", server.baseUrl() + "/board/view.do?postId=101"));
+
+        // 리다이렉트를 따라가지 않고 WebView에 맡김. 가로채기에서는 원래 요청 1건만 보내고 Location은 따라가지 않음
+        // (null 반환 후 WebView가 같은 요청을 다시 보내므로 실제로는 2번 왕복하며, 로그인 상태에서만 발생하는 비용)
+        assertNull(response);
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void intercept_skipsBoardPagesWhileLoggedOut() {
+        // 로그아웃 상태의 게시판 요청은 로그인 페이지로 리다이렉트되므로 가로채면 요청이 중복됨
+        loggedIn = false;
+
+        assertNull(client.shouldInterceptRequest(null, request("GET", server.baseUrl() + "/board/view.do?postId=101")));
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void intercept_ignoresNonBoardPagesAndPosts() {
+        assertNull(client.shouldInterceptRequest(null, request("GET", server.baseUrl() + "/user/view.do")));
+        assertNull(client.shouldInterceptRequest(null, request("POST", server.baseUrl() + "/board/list.do")));
+        assertNull(client.shouldInterceptRequest(null, request("GET", "http://example.com/board/list.do")));
+
+        assertEquals(0, server.getRequestCount());
+    }
+
+    private static WebResourceRequest request(String method, String url) {
+        return new StubWebResourceRequest(method, url);
+    }
+
+    private static byte[] readResource(String resource) throws IOException {
+        try (InputStream in = BoardWebViewClientTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(resource, in);
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            return input.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mya;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * EventLog 링 버퍼 동작 및 메시지 처리 경로의 할당량 벤치마크
+ */
+public class EventLogTest {
+
+    @Before
+    public void setUp() {
+        EventLog.reset();
+    }
+
+    @Test
+    public void dump_keepsOnlyLatestEventsInOrder() {
+        for (int i = 0; i < EventLog.CAPACITY + 10; i++) {
+            EventLog.i(EventLog.EV_MESSAGE_RECEIVED, i, 0);
+        }
+
+        StringWriter text = new StringWriter();
+        int count = EventLog.dump(new PrintWriter(text));
+        String[] lines = text.toString().split("\n");
+
+        assertEquals(EventLog.CAPACITY, count);
+        assertTrue(lines[0].endsWith("MESSAGE_RECEIVED a=10 b=0"));
+        assertTrue(lines[lines.length - 1].endsWith("a=" + (EventLog.CAPACITY + 9) + " b=0"));
+    }
+
+    @Test
+    public void dump_printsStackTraceForErrors() {
+        EventLog.e(EventLog.EV_DOWNLOAD_FAILED, new IllegalStateException("boom"));
+
+        StringWriter text = new StringWriter();
+        EventLog.dump(new PrintWriter(text));
+
+        assertTrue(text.toString().contains("E DOWNLOAD_FAILED"));
+        assertTrue(text.toString().contains("IllegalStateException: boom"));
+    }
+
+    /**
+     * receiveMessage()의 ROUTE_CHANGE 처리에서 사용하는 로깅 헬퍼를 반복 호출하면서
+     * 스레드 할당 바이트를 측정. 기록 경로에서 객체가 생성되지 않아야 함
+     */
+    @Test
+    public void benchmark_messagePathAllocatesNothing() {
+        com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int iterations = 1_000_000;
+        String type = "ROUTE_CHANGE";
+        String path = "/board/list.do";
+        String userId = "tester";
+
+        // JIT 워밍업
+        for (int i = 0; i < iterations; i++) {
+            WebAppInterface.logMessage(type);
+            WebAppInterface.routeLoginStatus(path, userId);
+        }
+
+        long startBytes = bean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            WebAppInterface.logMessage(type);
+            WebAppInterface.routeLoginStatus(path, (i & 1) == 0 ? userId : "");
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocated = bean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        System.out.println("EventLog: " + (elapsedNanos / iterations) + " ns/message, "
+                + allocated + " bytes allocated for " + iterations + " messages");
+
+        // 측정 자체에서 생기는 소량의 할당만 허용 (메시지당 0바이트)
+        assertTrue("allocated " + allocated + " bytes", allocated < 1024);
+    }
+}
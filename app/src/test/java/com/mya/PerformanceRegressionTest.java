@@ -0,0 +1,241 @@
+package com.mya;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.DownloadManager;
+import android.content.Context;
+import android.os.Looper;
+import android.webkit.DownloadListener;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import android.widget.Button;
+import android.widget.PopupMenu;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowPopupMenu;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 대체 서버(StandInServer)를 이용한 종단간 성능 회귀 테스트
+ * WebViewManager/WebAppInterface를 통해 화면 이동/다운로드 흐름을 실행하고, 그동안 WebView와
+ * DownloadManager에 요청된 모든 URL을 대체 서버에서 받아와 요청 수, 전송 바이트, 소요 시간이 예산을 넘지 않는지 확인
+ * (Robolectric의 WebView는 실제 네트워크 요청을 하지 않으므로, 실제 WebView처럼 앱이 설치한 WebViewClient의
+ * shouldInterceptRequest()를 먼저 거치고 가로채지 않은 요청만 테스트가 직접 받아옴. 따라서 게시판 페이지처럼
+ * 앱이 직접 요청하는 경로의 중복 요청도 예산에 반영됨)
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class PerformanceRegressionTest {
+
+    // 대체 서버 네트워크 조건 (요청당 지연 20ms, 512KB/s)
+    private static final long LATENCY_MILLIS = 20;
+    private static final long BYTES_PER_SECOND = 512 * 1024;
+
+    // 화면 이동 흐름 예산 (홈 → 로그인 → 공지사항 → 마이페이지 → 홈)
+    // 로그인 화면은 페이지가 직접 이동하므로 앱의 loadUrl 요청은 4건
+    private static final int NAVIGATION_MAX_REQUESTS = 4;
+    private static final long NAVIGATION_MAX_BYTES = 8 * 1024;
+    private static final long NAVIGATION_MAX_MILLIS = 1_000;
+
+    // 다운로드 흐름 예산 (첨부 파일 1건)
+    private static final int DOWNLOAD_MAX_REQUESTS = 1;
+    private static final long DOWNLOAD_MAX_BYTES = 64 * 1024;
+    private static final long DOWNLOAD_MAX_MILLIS = 1_000;
+
+    private StandInServer server;
+    private MainActivity activity;
+    private RecordingWebView webView;
+    private WebViewManager manager;
+    private WebAppInterface webAppInterface;
+
+    /**
+     * loadUrl() 호출을 모두 기록하고, 호출 시점의 앱 상태(로그인 여부 등)로 바로 요청하는 WebView
+     */
+    private class RecordingWebView extends WebView {
+        final List<String> loadedUrls = new ArrayList<>();
+
+        RecordingWebView(Context context) {
+            super(context);
+        }
+
+        @Override
+        public void loadUrl(String url) {
+            loadedUrls.add(url);
+            super.loadUrl(url);
+            try {
+                request(this, url);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server = StandInServer.withRecordedRoutes(LATENCY_MILLIS, BYTES_PER_SECOND);
+
+        // registerForActivityResult()는 STARTED 이전에만 호출 가능하므로 create 상태에서 생성
+        activity = Robolectric.buildActivity(MainActivity.class).create().get();
+        webView = new RecordingWebView(activity);
+        manager = new WebViewManager(activity, webView, server.baseUrl());
+        webAppInterface = new WebAppInterface(activity, manager);
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void navigationFlow_staysWithinBudget() throws Exception {
+        long start = System.nanoTime();
+
+        // 초기 페이지 로드 (생성자에서 baseUrl 로드) 후 페이지가 로그인 화면으로 이동
+        webAppInterface.receiveMessage("{\"type\":\"ROUTE_CHANGE\",\"path\":\"/user/login.do\",\"userId\":\"\"}");
+        assertFalse(manager.isLoggedIn());
+
+        // 로그아웃 상태에서는 메뉴를 눌러도 이동하지 않음
+        int loadsBeforeMenu = webView.loadedUrls.size();
+        clickMenu();
+        assertEquals(loadsBeforeMenu, webView.loadedUrls.size());
+
+        // 로그인 완료 후 홈으로 이동
+        webAppInterface.receiveMessage("{\"type\":\"LOGIN\"}");
+        webAppInterface.receiveMessage("{\"type\":\"ROUTE_CHANGE\",\"path\":\"/\",\"userId\":\"tester\"}");
+        assertTrue(manager.isLoggedIn());
+
+        // 메뉴 → 공지사항
+        selectMenu(R.id.menuNotice);
+
+        // 마이페이지 버튼
+        manager.loadMyPage();
+
+        // 메뉴 → 홈
+        selectMenu(R.id.menuHome);
+
+        for (String url : webView.loadedUrls) {
+            assertTrue(url, url.startsWith(server.baseUrl()));
+        }
+
+        // 게시판 페이지는 앱의 WebViewClient가 직접 받아와 색인함
+        BoardIndexer.getInstance(activity).awaitIdle();
+        assertFalse(manager.getBoardSearchIndex().search("점검", 10).isEmpty());
+
+        assertWithinBudget("navigation", start,
+                NAVIGATION_MAX_REQUESTS, NAVIGATION_MAX_BYTES, NAVIGATION_MAX_MILLIS);
+    }
+
+    @Test
+    public void downloadFlow_staysWithinBudget() throws IOException {
+        // setUp의 초기 페이지 로드 요청은 다운로드 흐름에서 제외
+        server.resetCounters();
+        long start = System.nanoTime();
+
+        // WebView에서 첨부 파일 링크를 누른 경우 DownloadListener 호출
+        String url = manager.getBaseUrl() + "/file/download.do?fileId=7";
+        DownloadListener listener = shadowOf(webView).getDownloadListener();
+        listener.onDownloadStart(url, webView.getSettings().getUserAgentString(),
+                "attachment; filename=\"attachment.txt\"", "text/plain", 0);
+
+        // DownloadManager에 등록된 모든 요청의 URI를 받아옴
+        DownloadManager downloadManager =
+                (DownloadManager) activity.getSystemService(Context.DOWNLOAD_SERVICE);
+        int requests = shadowOf(downloadManager).getRequestCount();
+        assertTrue(requests > 0);
+        for (int i = 0; i < requests; i++) {
+            DownloadManager.Request request = shadowOf(downloadManager).getRequest(i);
+            fetch(shadowOf(request).getUri().toString());
+        }
+
+        assertWithinBudget("download", start,
+                DOWNLOAD_MAX_REQUESTS, DOWNLOAD_MAX_BYTES, DOWNLOAD_MAX_MILLIS);
+    }
+
+    /**
+     * 메뉴 버튼 클릭 (WebViewManager의 메뉴 리스너 연결 후 클릭)
+     */
+    private void clickMenu() {
+        Button btnMenu = activity.findViewById(R.id.btnMenu);
+        manager.showMenuPopup(btnMenu);
+        btnMenu.performClick();
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    /**
+     * 메뉴 버튼을 눌러 팝업 메뉴를 띄운 후 항목 선택
+     */
+    private void selectMenu(int itemId) {
+        clickMenu();
+
+        PopupMenu popup = ShadowPopupMenu.getLatestPopupMenu();
+        assertNotNull(popup);
+        shadowOf(popup).getOnMenuItemClickListener()
+                .onMenuItemClick(popup.getMenu().findItem(itemId));
+    }
+
+    /**
+     * 실제 WebView처럼 설치된 WebViewClient에 요청을 먼저 전달하고, 가로채지 않으면 직접 받아옴
+     */
+    private static void request(WebView view, String url) throws IOException {
+        WebViewClient client = shadowOf(view).getWebViewClient();
+        WebResourceResponse response = client != null
+                ? client.shouldInterceptRequest(view, new StubWebResourceRequest("GET", url))
+                : null;
+        if (response == null) {
+            fetch(url);
+            return;
+        }
+        assertEquals(url, 200, response.getStatusCode());
+        consume(response.getData());
+    }
+
+    /**
+     * URL의 응답 본문을 끝까지 읽음 (WebView/DownloadManager의 네트워크 요청을 대신함)
+     */
+    private static void fetch(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            assertEquals(url, 200, connection.getResponseCode());
+            consume(connection.getInputStream());
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static void consume(InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            byte[] buffer = new byte[8 * 1024];
+            while (in.read(buffer) != -1) {
+                // 본문 소비
+            }
+        }
+    }
+
+    private void assertWithinBudget(String flow, long startNanos,
+                                    int maxRequests, long maxBytes, long maxMillis) {
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        int requests = server.getRequestCount();
+        long bytes = server.getBytesSent();
+
+        System.out.println(flow + ": " + requests + " requests, " + bytes + " bytes, " + elapsedMillis + " ms");
+
+        assertTrue(flow + " requests " + requests + " > " + maxRequests, requests <= maxRequests);
+        assertTrue(flow + " bytes " + bytes + " > " + maxBytes, bytes <= maxBytes);
+        assertTrue(flow + " time " + elapsedMillis + "ms > " + maxMillis + "ms", elapsedMillis <= maxMillis);
+    }
+}
@@ -0,0 +1,225 @@
+package com.mya;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 로컬 대체 백엔드 서버
+ * 실제 서버(http://192.168.0.23:3000) 대신 기록된 응답(test resources의 standin/ 폴더)을 재생하며,
+ * 응답 지연 시간과 대역폭을 설정할 수 있음. 요청 수와 전송 바이트를 집계함
+ */
+public class StandInServer implements AutoCloseable {
+
+    // 대역폭 제한 시 한 번에 쓰는 바이트 수
+    private static final int CHUNK_SIZE = 4 * 1024;
+
+    private final HttpServer server;
+    private final long latencyMillis;       // 요청마다 응답 전 대기 시간
+    private final long bytesPerSecond;      // 응답 본문 전송 속도 (0 이하면 제한 없음)
+
+    // 경로별 기록된 응답
+    private final Map<String, Recording> routes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    /**
+     * 기록된 응답 (상태 코드, 헤더, 본문)
+     */
+    private static final class Recording {
+        final int status;
+        final Map<String, String> headers;
+        final byte[] body;
+
+        Recording(int status, Map<String, String> headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+
+    /**
+     * 생성자: 임의의 빈 포트로 서버 시작
+     * @param latencyMillis   요청마다 응답 전 대기 시간 (ms)
+     * @param bytesPerSecond  응답 본문 전송 속도 (0 이하면 제한 없음)
+     */
+    public StandInServer(long latencyMillis, long bytesPerSecond) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.bytesPerSecond = bytesPerSecond;
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * 앱 라우트에 대응하는 기록된 응답을 모두 등록한 서버 생성
+     */
+    public static StandInServer withRecordedRoutes(long latencyMillis, long bytesPerSecond) throws IOException {
+        StandInServer server = new StandInServer(latencyMillis, bytesPerSecond);
+        server.route("/", "standin/index.html", "text/html; charset=UTF-8");
+        server.route("/board/list.do", "standin/board_list.html", "text/html; charset=UTF-8");
+        server.route("/board/view.do", "standin/board_view.html", "text/html; charset=UTF-8");
+        server.route("/user/view.do", "standin/user_view.html", "text/html; charset=UTF-8");
+        server.route("/user/login.do", "standin/user_login.html", "text/html; charset=UTF-8");
+        server.download("/file/download.do", "standin/attachment.txt", "text/plain", "attachment.txt");
+        return server;
+    }
+
+    /**
+     * 일반 페이지 응답 등록
+     * @param path         요청 경로
+     * @param resource     기록된 응답 리소스 경로
+     * @param contentType  Content-Type 헤더
+     */
+    public void route(String path, String resource, String contentType) throws IOException {
+        respond(path, 200, resource, contentType, Collections.emptyMap());
+    }
+
+    /**
+     * 파일 다운로드 응답 등록 (Content-Disposition 헤더 포함)
+     * @param path         요청 경로
+     * @param resource     기록된 응답 리소스 경로
+     * @param contentType  Content-Type 헤더
+     * @param filename     다운로드 파일명
+     */
+    public void download(String path, String resource, String contentType, String filename) throws IOException {
+        respond(path, 200, resource, contentType,
+                Collections.singletonMap("Content-Disposition", "attachment; filename=\"" + filename + "\""));
+    }
+
+    /**
+     * 임의의 상태 코드와 헤더를 가진 응답 등록
+     * @param path         요청 경로
+     * @param status       상태 코드
+     * @param resource     기록된 응답 리소스 경로 (null이면 본문 없음)
+     * @param contentType  Content-Type 헤더
+     * @param headers      추가 헤더 (Set-Cookie 등)
+     */
+    public void respond(String path, int status, String resource, String contentType,
+                        Map<String, String> headers) throws IOException {
+        Map<String, String> all = new HashMap<>(headers);
+        all.put("Content-Type", contentType);
+        routes.put(path, new Recording(status, all, resource != null ? readResource(resource) : new byte[0]));
+    }
+
+    /**
+     * 리다이렉트 응답 등록 (302)
+     * @param path      요청 경로
+     * @param location  이동할 경로
+     */
+    public void redirect(String path, String location) {
+        routes.put(path, new Recording(302, Collections.singletonMap("Location", location), new byte[0]));
+    }
+
+    /**
+     * 앱의 baseUrl 대신 사용할 서버 주소
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    /**
+     * 집계 초기화
+     */
+    public void resetCounters() {
+        requestCount.set(0);
+        bytesSent.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * 요청 처리: 쿼리 문자열을 제외한 경로로 기록된 응답을 찾아 지연/대역폭을 적용하여 전송
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            Recording recording = routes.get(exchange.getRequestURI().getPath());
+
+            sleep(latencyMillis);
+
+            if (recording == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            for (Map.Entry<String, String> header : recording.headers.entrySet()) {
+                exchange.getResponseHeaders().set(header.getKey(), header.getValue());
+            }
+            if (recording.body.length == 0) {
+                exchange.sendResponseHeaders(recording.status, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(recording.status, recording.body.length);
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                writeThrottled(out, recording.body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 설정된 대역폭에 맞추어 청크 단위로 본문 전송
+     */
+    private void writeThrottled(OutputStream out, byte[] body) throws IOException {
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, body.length - offset);
+            out.write(body, offset, length);
+            out.flush();
+            bytesSent.addAndGet(length);
+            if (bytesPerSecond > 0) {
+                sleep(length * 1000L / bytesPerSecond);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] readResource(String resource) throws IOException {
+        try (InputStream in = StandInServer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("recorded response not found: " + resource);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
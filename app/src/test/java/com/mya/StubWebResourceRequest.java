@@ -0,0 +1,51 @@
+package com.mya;
+
+import android.net.Uri;
+import android.webkit.WebResourceRequest;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 테스트에서 WebView가 WebViewClient에 전달하는 요청을 대신하는 메인 프레임 요청
+ */
+class StubWebResourceRequest implements WebResourceRequest {
+
+    private final String method;
+    private final Uri url;
+
+    StubWebResourceRequest(String method, String url) {
+        this.method = method;
+        this.url = Uri.parse(url);
+    }
+
+    @Override
+    public Uri getUrl() {
+        return url;
+    }
+
+    @Override
+    public boolean isForMainFrame() {
+        return true;
+    }
+
+    @Override
+    public boolean isRedirect() {
+        return false;
+    }
+
+    @Override
+    public boolean hasGesture() {
+        return false;
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public Map<String, String> getRequestHeaders() {
+        return Collections.emptyMap();
+    }
+}